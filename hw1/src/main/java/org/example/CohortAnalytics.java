@@ -0,0 +1,298 @@
+package org.example;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Класс {@code CohortAnalytics} строит сводный отчёт по группе студентов:
+ * средний балл, распределение оценок, лучших студентов по среднему баллу
+ * и перцентили. Группа делится на части, которые обрабатываются параллельно
+ * в {@link ForkJoinPool}, а частичные результаты затем объединяются.
+ *
+ * <p>Оценки читаются через {@link Student#forEachGrade} без копирования,
+ * поэтому во время анализа студентов нельзя изменять.</p>
+ */
+public class CohortAnalytics {
+    private static final int THRESHOLD = 256;
+    /** Наибольшее число интервалов распределения; каждая часть группы держит свой массив. */
+    private static final int MAX_BINS = 1 << 16;
+
+    private final int topN;
+    private final double binWidth;
+    private final double relativeAccuracy;
+    private final ForkJoinPool pool;
+
+    /**
+     * Студент с его средним баллом — элемент рейтинга.
+     */
+    public static class Ranked {
+        private final String name;
+        private final double mean;
+
+        public Ranked(String name, double mean) {
+            this.name = name;
+            this.mean = mean;
+        }
+
+        /** @return имя студента */
+        public String getName() { return name; }
+
+        /** @return средний балл студента */
+        public double getMean() { return mean; }
+
+        @Override
+        public String toString() { return name + ": " + mean; }
+    }
+
+    private static final Comparator<Ranked> BY_MEAN =
+            Comparator.comparingDouble(Ranked::getMean).thenComparing(Ranked::getName, Comparator.reverseOrder());
+
+    // ------------------ Конструкторы ------------------
+
+    /**
+     * Создает анализатор с рейтингом из 10 студентов, шириной интервала
+     * распределения 1 и точностью перцентилей 1% на общем пуле потоков.
+     */
+    public CohortAnalytics() {
+        this(10, 1.0);
+    }
+
+    /**
+     * Создает анализатор на общем пуле потоков с точностью перцентилей 1%.
+     * @param topN размер рейтинга лучших студентов
+     * @param binWidth ширина интервала распределения оценок
+     */
+    public CohortAnalytics(int topN, double binWidth) {
+        this(topN, binWidth, 0.01, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает анализатор.
+     * @param topN размер рейтинга лучших студентов
+     * @param binWidth ширина интервала распределения оценок
+     * @param relativeAccuracy относительная точность перцентилей
+     * @param pool пул потоков для параллельной обработки
+     * @throws IllegalArgumentException если параметры некорректны
+     * @throws NullPointerException если пул не указан
+     */
+    public CohortAnalytics(int topN, double binWidth, double relativeAccuracy, ForkJoinPool pool) {
+        if (topN < 0)
+            throw new IllegalArgumentException("Некорректный размер рейтинга: " + topN);
+        if (!(binWidth > 0))
+            throw new IllegalArgumentException("Некорректная ширина интервала: " + binWidth);
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1))
+            throw new IllegalArgumentException("Некорректная точность перцентилей: " + relativeAccuracy);
+        Objects.requireNonNull(pool, "Не указан пул потоков");
+        this.topN = topN;
+        this.binWidth = binWidth;
+        this.relativeAccuracy = relativeAccuracy;
+        this.pool = pool;
+    }
+
+    // ------------------ Анализ ------------------
+
+    /**
+     * Строит отчёт по группе студентов.
+     * @param students студенты с числовыми оценками
+     * @return отчёт
+     * @throws IllegalArgumentException если оценки занимают больше 65536 интервалов распределения
+     */
+    public Report analyze(Collection<? extends Student<? extends Number>> students) {
+        List<? extends Student<? extends Number>> list = (students instanceof List<?> && students instanceof RandomAccess)
+                ? (List<? extends Student<? extends Number>>) students
+                : new ArrayList<>(students);
+        return new Report(pool.invoke(new Task(this, list, 0, list.size())));
+    }
+
+    /**
+     * Задача, которая делит отрезок списка пополам, пока он не станет меньше порога.
+     */
+    private static class Task extends RecursiveTask<Accumulator> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient CohortAnalytics analytics;
+        private final transient List<? extends Student<? extends Number>> students;
+        private final int from;
+        private final int to;
+
+        private Task(CohortAnalytics analytics, List<? extends Student<? extends Number>> students, int from, int to) {
+            this.analytics = analytics;
+            this.students = students;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= THRESHOLD) {
+                Accumulator result = analytics.new Accumulator();
+                for (int i = from; i < to; i++)
+                    result.add(students.get(i));
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            Task left = new Task(analytics, students, from, middle);
+            left.fork();
+            Accumulator right = new Task(analytics, students, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Частичный результат по части группы. Объединяется с другими через {@link #merge}.
+     */
+    private class Accumulator {
+        private long students;
+        private long grades;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private final DenseCounter histogram = new DenseCounter(MAX_BINS);
+        private final QuantileSketch gradeSketch = new QuantileSketch(relativeAccuracy);
+        private final QuantileSketch meanSketch = new QuantileSketch(relativeAccuracy);
+        private final PriorityQueue<Ranked> top = new PriorityQueue<>(BY_MEAN);
+
+        private long studentGrades;
+        private double studentSum;
+
+        private void add(Student<? extends Number> student) {
+            studentGrades = 0;
+            studentSum = 0;
+            student.forEachGrade(this::addGrade);
+            students++;
+            if (studentGrades == 0)
+                return;
+            double mean = studentSum / studentGrades;
+            meanSketch.add(mean);
+            offer(new Ranked(student.getName(), mean));
+        }
+
+        private void addGrade(Number grade) {
+            double value = grade.doubleValue();
+            studentGrades++;
+            studentSum += value;
+            grades++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            double bin = Math.floor(value / binWidth);
+            if (bin < Integer.MIN_VALUE || bin > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Оценка вне диапазона распределения: " + value);
+            histogram.add((int) bin, 1);
+            gradeSketch.add(value);
+        }
+
+        private void offer(Ranked ranked) {
+            if (topN == 0)
+                return;
+            if (top.size() < topN) {
+                top.add(ranked);
+            } else if (BY_MEAN.compare(ranked, top.peek()) > 0) {
+                top.poll();
+                top.add(ranked);
+            }
+        }
+
+        private Accumulator merge(Accumulator other) {
+            students += other.students;
+            grades += other.grades;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            histogram.addAll(other.histogram);
+            gradeSketch.merge(other.gradeSketch);
+            meanSketch.merge(other.meanSketch);
+            other.top.forEach(this::offer);
+            return this;
+        }
+    }
+
+    // ------------------ Отчёт ------------------
+
+    /**
+     * Класс {@code Report} — итоговый отчёт по группе студентов.
+     */
+    public class Report {
+        private final long students;
+        private final long grades;
+        private final double average;
+        private final double min;
+        private final double max;
+        private final SortedMap<Double, Long> histogram;
+        private final List<Ranked> top;
+        private final QuantileSketch gradeSketch;
+        private final QuantileSketch meanSketch;
+
+        private Report(Accumulator result) {
+            this.students = result.students;
+            this.grades = result.grades;
+            this.average = (grades == 0) ? Double.NaN : result.sum / grades;
+            this.min = (grades == 0) ? Double.NaN : result.min;
+            this.max = (grades == 0) ? Double.NaN : result.max;
+            SortedMap<Double, Long> bins = new TreeMap<>();
+            for (long bin = result.histogram.minIndex(); bin <= result.histogram.maxIndex(); bin++)
+                if (result.histogram.get(bin) != 0)
+                    bins.put(bin * binWidth, result.histogram.get(bin));
+            this.histogram = Collections.unmodifiableSortedMap(bins);
+            List<Ranked> ranked = new ArrayList<>(result.top);
+            ranked.sort(BY_MEAN.reversed());
+            this.top = List.copyOf(ranked);
+            this.gradeSketch = result.gradeSketch;
+            this.meanSketch = result.meanSketch;
+        }
+
+        /** @return количество студентов */
+        public long getStudentCount() { return students; }
+
+        /** @return количество оценок */
+        public long getGradeCount() { return grades; }
+
+        /** @return средний балл по всем оценкам или {@code NaN}, если оценок нет */
+        public double getAverage() { return average; }
+
+        /** @return минимальная оценка или {@code NaN}, если оценок нет */
+        public double getMin() { return min; }
+
+        /** @return максимальная оценка или {@code NaN}, если оценок нет */
+        public double getMax() { return max; }
+
+        /**
+         * Возвращает распределение оценок: нижняя граница интервала — количество оценок.
+         * @return неизменяемая упорядоченная карта
+         */
+        public SortedMap<Double, Long> getHistogram() { return histogram; }
+
+        /**
+         * Возвращает лучших студентов по среднему баллу (точно), по убыванию.
+         * Студенты без оценок в рейтинг не попадают.
+         * @return неизменяемый список
+         */
+        public List<Ranked> getTop() { return top; }
+
+        /**
+         * Возвращает приближённый перцентиль по всем оценкам группы.
+         * @param q квантиль от 0 до 1 (например, 0.5 — медиана)
+         * @return значение перцентиля или {@code NaN}, если оценок нет
+         */
+        public double gradePercentile(double q) { return gradeSketch.quantile(q); }
+
+        /**
+         * Возвращает приближённый перцентиль средних баллов студентов.
+         * Учитываются только студенты, у которых есть оценки.
+         * @param q квантиль от 0 до 1
+         * @return значение перцентиля или {@code NaN}, если оценок нет
+         */
+        public double meanPercentile(double q) { return meanSketch.quantile(q); }
+
+        /**
+         * Возвращает приближённый процентильный ранг среднего балла:
+         * долю студентов, чей средний балл не выше указанного. Студенты без оценок
+         * не имеют среднего балла и не входят ни в числитель, ни в знаменатель,
+         * поэтому знаменатель может быть меньше {@link #getStudentCount()}.
+         * @param mean средний балл
+         * @return доля от 0 до 1 или {@code NaN}, если оценок нет
+         */
+        public double percentileRank(double mean) { return meanSketch.rank(mean); }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+/**
+ * Класс {@code DenseCounter} — счётчики для подряд идущих целых индексов,
+ * хранящиеся в массиве {@code long[]} со смещением. Массив расширяется
+ * по мере необходимости в любую сторону, поэтому увеличение счётчика
+ * не создаёт объектов, а объединение сводится к поэлементному сложению.
+ * Допустим любой индекс типа {@code int}, но ширина занятого диапазона
+ * ограничена ёмкостью, заданной при создании.
+ */
+final class DenseCounter {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxCapacity;
+    private long[] counts = new long[0];
+    private int offset;
+    private int minIndex = Integer.MAX_VALUE;
+    private int maxIndex = Integer.MIN_VALUE;
+
+    /**
+     * Создает пустые счётчики.
+     * @param maxCapacity наибольшая допустимая ширина диапазона индексов
+     */
+    DenseCounter(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    /**
+     * Увеличивает счётчик с указанным индексом.
+     * @param index индекс
+     * @param count величина увеличения
+     * @throws IllegalArgumentException если диапазон индексов превысит допустимую ширину
+     */
+    void add(int index, long count) {
+        ensureRange(index);
+        counts[index - offset] += count;
+        minIndex = Math.min(minIndex, index);
+        maxIndex = Math.max(maxIndex, index);
+    }
+
+    /**
+     * Прибавляет все счётчики другого объекта.
+     * @param other другие счётчики
+     * @throws IllegalArgumentException если диапазон индексов превысит допустимую ширину
+     */
+    void addAll(DenseCounter other) {
+        if (other.isEmpty())
+            return;
+        ensureRange(other.minIndex);
+        ensureRange(other.maxIndex);
+        for (long i = other.minIndex; i <= other.maxIndex; i++)
+            counts[(int) (i - offset)] += other.counts[(int) (i - other.offset)];
+        minIndex = Math.min(minIndex, other.minIndex);
+        maxIndex = Math.max(maxIndex, other.maxIndex);
+    }
+
+    /** @return {@code true}, если ни один счётчик не увеличивался */
+    boolean isEmpty() { return minIndex > maxIndex; }
+
+    /** @return наименьший использованный индекс */
+    int minIndex() { return minIndex; }
+
+    /** @return наибольший использованный индекс */
+    int maxIndex() { return maxIndex; }
+
+    /**
+     * Возвращает значение счётчика.
+     * @param index индекс от {@link #minIndex()} до {@link #maxIndex()}
+     * @return значение счётчика
+     */
+    long get(long index) { return counts[(int) (index - offset)]; }
+
+    private void ensureRange(int index) {
+        if (counts.length == 0) {
+            int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+            counts = new long[capacity];
+            offset = (int) Math.max(Integer.MIN_VALUE,
+                    Math.min((long) index - capacity / 2, (long) Integer.MAX_VALUE - capacity + 1));
+            return;
+        }
+        long low = offset;
+        long high = low + counts.length - 1;
+        if (index >= low && index <= high)
+            return;
+
+        long needed = Math.max(high, index) - Math.min(low, index) + 1;
+        if (needed > maxCapacity)
+            throw new IllegalArgumentException("Слишком широкий диапазон индексов: " + needed);
+        int capacity = (int) Math.min(maxCapacity, Math.max(needed, 2L * counts.length));
+        int newOffset = (index < low) ? (int) Math.max(Integer.MIN_VALUE, high - capacity + 1) : offset;
+
+        long[] grown = new long[capacity];
+        System.arraycopy(counts, 0, grown, (int) (low - newOffset), counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+}
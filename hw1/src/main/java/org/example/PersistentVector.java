@@ -0,0 +1,212 @@
+package org.example;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Класс {@code PersistentVector} — неизменяемый (персистентный) список
+ * на основе префиксного дерева с ветвлением 32 и «хвостовым» буфером.
+ * Каждая операция изменения возвращает новый вектор, разделяющий
+ * с исходным все неизменённые узлы, поэтому старые версии остаются
+ * доступными и не требуют копирования.
+ *
+ * <p>Доступ по индексу и добавление в конец выполняются за O(log<sub>32</sub> n),
+ * то есть практически за константу.</p>
+ *
+ * @param <T> тип элементов
+ */
+public final class PersistentVector<T> extends AbstractList<T> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    // ------------------ Фабричные методы ------------------
+
+    /**
+     * Возвращает пустой вектор.
+     * @return пустой вектор
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Создает вектор из элементов коллекции.
+     * @param values исходные элементы
+     * @return вектор с теми же элементами в том же порядке
+     */
+    public static <T> PersistentVector<T> of(Collection<? extends T> values) {
+        PersistentVector<T> result = empty();
+        for (T value : values)
+            result = result.append(value);
+        return result;
+    }
+
+    // ------------------ Методы доступа ------------------
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Обходит элементы по листьям дерева, не спускаясь к корню для каждого индекса.
+     * @param action действие над элементом
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = leafFor(start);
+            int length = Math.min(WIDTH, size - start);
+            for (int i = 0; i < length; i++)
+                action.accept((T) leaf[i]);
+        }
+    }
+
+    // ------------------ Операции изменения ------------------
+
+    /**
+     * Возвращает новый вектор с элементом, добавленным в конец.
+     * @param value новый элемент
+     * @return новый вектор
+     */
+    public PersistentVector<T> append(T value) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    /**
+     * Возвращает новый вектор без последнего элемента.
+     * @return новый вектор
+     * @throws IllegalStateException если вектор пуст
+     */
+    public PersistentVector<T> pop() {
+        if (size == 0)
+            throw new IllegalStateException("Нельзя удалить элемент из пустого вектора");
+        if (size == 1)
+            return empty();
+        if (size - tailOffset() > 1)
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Возвращает новый вектор без элемента с указанным индексом.
+     * Префикс до {@code index} разделяется с исходным вектором: элементы
+     * снимаются с конца через {@link #pop()}, после чего заново добавляется
+     * только хвост, поэтому удаление стоит O(n − index).
+     *
+     * @param index индекс удаляемого элемента
+     * @return новый вектор
+     */
+    public PersistentVector<T> without(int index) {
+        Objects.checkIndex(index, size);
+        PersistentVector<T> result = this;
+        while (result.size > index)
+            result = result.pop();
+        for (int i = index + 1; i < size; i++)
+            result = result.append(get(i));
+        return result;
+    }
+
+    // ------------------ Внутреннее устройство дерева ------------------
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset())
+            return tail;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS) {
+            result[subIndex] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            result[subIndex] = (child != null)
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return result;
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS, (Object[]) node[subIndex]);
+            if (child == null && subIndex == 0)
+                return null;
+            Object[] result = node.clone();
+            result[subIndex] = child;
+            return result;
+        }
+        if (subIndex == 0)
+            return null;
+        Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0)
+            return node;
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+}
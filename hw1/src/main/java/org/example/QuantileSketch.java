@@ -0,0 +1,151 @@
+package org.example;
+
+/**
+ * Класс {@code QuantileSketch} — объединяемый скетч для приближённых перцентилей
+ * с гарантированной относительной точностью (по схеме DDSketch).
+ * Значения раскладываются по логарифмическим корзинам, поэтому память зависит
+ * от диапазона значений, а не от их количества. Корзины хранятся в плотных
+ * массивах, так что добавление значения не создаёт объектов, а два скетча
+ * объединяются поэлементным сложением счётчиков.
+ */
+public final class QuantileSketch {
+    /** Наибольшее число корзин одного знака; при точности 1% всему диапазону double хватает ~71 тыс. */
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final DenseCounter positive = new DenseCounter(MAX_BUCKETS);
+    private final DenseCounter negative = new DenseCounter(MAX_BUCKETS);
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Создает скетч с относительной точностью 1%.
+     */
+    public QuantileSketch() {
+        this(0.01);
+    }
+
+    /**
+     * Создает скетч с заданной относительной точностью.
+     * @param relativeAccuracy допустимая относительная ошибка перцентиля, от 0 до 1
+     * @throws IllegalArgumentException если точность вне интервала (0, 1)
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1))
+            throw new IllegalArgumentException("Некорректная точность скетча: " + relativeAccuracy);
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    // ------------------ Пополнение ------------------
+
+    /**
+     * Добавляет значение в скетч.
+     * @param value значение
+     * @throws IllegalArgumentException если значение равно NaN
+     */
+    public void add(double value) {
+        if (Double.isNaN(value))
+            throw new IllegalArgumentException("Некорректное значение: " + value);
+        if (value >= Double.MIN_NORMAL)
+            positive.add(index(value), 1);
+        else if (value <= -Double.MIN_NORMAL)
+            negative.add(index(-value), 1);
+        else
+            zeroCount++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Добавляет в этот скетч все значения другого скетча.
+     * @param other скетч с той же точностью
+     * @throws IllegalArgumentException если точность скетчей различается
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy)
+            throw new IllegalArgumentException("Нельзя объединить скетчи с разной точностью");
+        positive.addAll(other.positive);
+        negative.addAll(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    // ------------------ Запросы ------------------
+
+    /**
+     * Возвращает количество добавленных значений.
+     * @return количество значений
+     */
+    public long count() { return count; }
+
+    /**
+     * Возвращает приближённое значение квантиля.
+     * @param q квантиль от 0 до 1 (например, 0.99)
+     * @return значение квантиля или {@code NaN}, если скетч пуст
+     * @throws IllegalArgumentException если {@code q} вне отрезка [0, 1]
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1))
+            throw new IllegalArgumentException("Некорректный квантиль: " + q);
+        if (count == 0)
+            return Double.NaN;
+        long rank = (long) (q * (count - 1));
+        long seen = 0;
+        for (long i = negative.maxIndex(); i >= negative.minIndex(); i--) {
+            seen += negative.get(i);
+            if (seen > rank)
+                return clamp(-value(i));
+        }
+        seen += zeroCount;
+        if (seen > rank)
+            return clamp(0);
+        for (long i = positive.minIndex(); i <= positive.maxIndex(); i++) {
+            seen += positive.get(i);
+            if (seen > rank)
+                return clamp(value(i));
+        }
+        return max;
+    }
+
+    /**
+     * Возвращает приближённую долю значений, не превышающих {@code x}.
+     * @param x граница
+     * @return доля от 0 до 1 или {@code NaN}, если скетч пуст
+     */
+    public double rank(double x) {
+        if (count == 0)
+            return Double.NaN;
+        long below = 0;
+        for (long i = negative.minIndex(); i <= negative.maxIndex(); i++)
+            if (-value(i) <= x)
+                below += negative.get(i);
+        if (x >= 0)
+            below += zeroCount;
+        for (long i = positive.minIndex(); i <= positive.maxIndex() && value(i) <= x; i++)
+            below += positive.get(i);
+        return (double) below / count;
+    }
+
+    // ------------------ Корзины ------------------
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double value(long index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -7,14 +7,28 @@ import java.util.function.*;
  * Класс {@code Student} описывает студента, у которого есть имя, список оценок
  * и валидатор для проверки корректности оценок.
  * Также реализована история изменений, позволяющая откатывать последние действия.
+ * В режиме {@link Storage#PERSISTENT} оценки хранятся в {@link PersistentVector},
+ * а каждое состояние сохраняется как версия, доступная через {@link #at(int)}.
  *
  * @param <T> тип оценок (например, Integer, String, LocalDate и т.д.)
  */
 public class Student<T> {
     private String name;
-    private final List<T> marks;
+    private List<T> marks;
     private final Predicate<T> validator;
+    private final Storage storage;
     private final List<Action<?>> history = new ArrayList<>();
+    private final List<Version<T>> versions = new ArrayList<>();
+
+    /**
+     * Способы хранения оценок.
+     */
+    public enum Storage {
+        /** Изменяемый список; {@link #getGrades()} возвращает копию. */
+        COPY,
+        /** Персистентный вектор; снимки и {@link #getGrades()} не копируют данные. */
+        PERSISTENT
+    }
 
     /**
      * Типы действий, которые могут быть выполнены над объектом Student.
@@ -47,6 +61,25 @@ public class Student<T> {
         private E getData() { return this.data; }
     }
 
+    /**
+     * Класс {@code Version} — неизменяемый снимок состояния студента
+     * в режиме {@link Storage#PERSISTENT}.
+     *
+     * @param <E> тип оценок
+     */
+    private static class Version<E> {
+        private final String name;
+        private final PersistentVector<E> marks;
+
+        public Version(String name, PersistentVector<E> marks) {
+            this.name = name;
+            this.marks = marks;
+        }
+
+        private String getName() { return this.name; }
+        private PersistentVector<E> getMarks() { return this.marks; }
+    }
+
     // ------------------ Методы доступа ------------------
 
     /**
@@ -56,10 +89,53 @@ public class Student<T> {
     public String getName() { return name; }
 
     /**
-     * Возвращает копию списка оценок студента.
+     * Возвращает список оценок студента. В режиме {@link Storage#COPY} — копию,
+     * в режиме {@link Storage#PERSISTENT} — неизменяемый вектор без копирования.
      * @return список оценок
      */
-    public List<T> getGrades() { return new ArrayList<>(marks); }
+    public List<T> getGrades() {
+        return storage == Storage.PERSISTENT ? marks : new ArrayList<>(marks);
+    }
+
+    /**
+     * Передает каждую оценку в действие без копирования списка.
+     * Не должен вызываться одновременно с изменением студента.
+     * @param action действие над оценкой
+     */
+    public void forEachGrade(Consumer<? super T> action) { marks.forEach(action); }
+
+    /**
+     * Возвращает способ хранения оценок.
+     * @return способ хранения
+     */
+    public Storage getStorage() { return storage; }
+
+    /**
+     * Возвращает номер текущей версии (0 — состояние при создании).
+     * @return номер версии
+     * @throws IllegalStateException если студент создан не в режиме {@link Storage#PERSISTENT}
+     */
+    public int version() {
+        requirePersistent();
+        return versions.size() - 1;
+    }
+
+    /**
+     * Возвращает студента в состоянии указанной версии, не отменяя действий
+     * над текущим объектом. Снимок создаётся за O(1) и разделяет данные с оригиналом.
+     * Снимок ведёт собственную нумерацию версий (его {@link #version()} равен 0)
+     * и не содержит истории, поэтому {@link #Restore()} на нём ничего не отменяет.
+     *
+     * @param version номер версии от 0 до {@link #version()}
+     * @return новый независимый студент в режиме {@link Storage#PERSISTENT}
+     *         с состоянием указанной версии
+     * @throws IllegalStateException если студент создан не в режиме {@link Storage#PERSISTENT}
+     * @throws IndexOutOfBoundsException если такой версии нет
+     */
+    public Student<T> at(int version) {
+        requirePersistent();
+        return new Student<>(versions.get(version), validator);
+    }
 
     // ------------------ Приватные методы управления ------------------
 
@@ -68,18 +144,36 @@ public class Student<T> {
     private void addGrade(T mark) {
         if (!validator.test(mark))
             throw new IllegalArgumentException("Некорректная оценка: " + mark);
-        marks.add(mark);
+        if (storage == Storage.PERSISTENT)
+            marks = vector().append(mark);
+        else
+            marks.add(mark);
     }
 
     private void removeGrade(T mark) {
         for (int i = marks.size() - 1; i >= 0; i--) {
             if (marks.get(i).equals(mark)) {
-                marks.remove(i);
+                if (storage == Storage.PERSISTENT)
+                    marks = vector().without(i);
+                else
+                    marks.remove(i);
                 return;
             }
         }
     }
 
+    private PersistentVector<T> vector() { return (PersistentVector<T>) marks; }
+
+    private void requirePersistent() {
+        if (storage != Storage.PERSISTENT)
+            throw new IllegalStateException("История версий доступна только в режиме PERSISTENT");
+    }
+
+    private void saveVersion() {
+        if (storage == Storage.PERSISTENT)
+            versions.add(new Version<>(name, vector()));
+    }
+
     // ------------------ Публичные операции ------------------
 
     /**
@@ -93,6 +187,7 @@ public class Student<T> {
             throw new IllegalArgumentException("Пожалуйста, укажите корректное имя");
         addNewLastAction(new Action<>(ActionTypes.CHANGE_NAME, this.name));
         changeName(newName);
+        saveVersion();
     }
 
     /**
@@ -104,6 +199,7 @@ public class Student<T> {
     public void AddGrade(T mark) {
         addGrade(mark);
         addNewLastAction(new Action<>(ActionTypes.ADD_GRADE, mark));
+        saveVersion();
     }
 
     /**
@@ -114,16 +210,19 @@ public class Student<T> {
     public void RemoveGrade(T mark) {
         removeGrade(mark);
         addNewLastAction(new Action<>(ActionTypes.REMOVE_GRADE, mark));
+        saveVersion();
     }
 
     /**
      * Отменяет последнее действие (undo).
      * Если история пуста — ничего не происходит.
+     * В режиме {@link Storage#PERSISTENT} отмена сохраняется как новая версия.
      */
     public void Restore() {
         if (!history.isEmpty()) {
             applyAction(getLastAction());
             removeLastAction();
+            saveVersion();
         }
     }
 
@@ -169,14 +268,39 @@ public class Student<T> {
      * @throws IllegalArgumentException если имя пустое или оценки некорректны
      */
     public Student(String name, List<T> marks, Predicate<T> validator) {
+        this(name, marks, validator, Storage.COPY);
+    }
+
+    /**
+     * Создает студента с именем, списком оценок, проверкой валидности
+     * и выбранным способом хранения оценок.
+     * @param name имя
+     * @param marks список оценок
+     * @param validator валидатор
+     * @param storage способ хранения
+     * @throws IllegalArgumentException если имя пустое или оценки некорректны
+     * @throws NullPointerException если способ хранения не указан
+     */
+    public Student(String name, List<T> marks, Predicate<T> validator, Storage storage) {
+        Objects.requireNonNull(storage, "Не указан способ хранения оценок");
         if (name.isEmpty())
             throw new IllegalArgumentException("Некорректное имя студента");
         for (T mark : marks)
             if (!validator.test(mark))
                 throw new IllegalArgumentException("Некорректная оценка студента: " + mark);
         this.name = name;
-        this.marks = new ArrayList<>(marks);
+        this.marks = (storage == Storage.PERSISTENT) ? PersistentVector.of(marks) : new ArrayList<>(marks);
+        this.validator = validator;
+        this.storage = storage;
+        saveVersion();
+    }
+
+    private Student(Version<T> version, Predicate<T> validator) {
+        this.name = version.getName();
+        this.marks = version.getMarks();
         this.validator = validator;
+        this.storage = Storage.PERSISTENT;
+        saveVersion();
     }
 
     /**
@@ -1,10 +1,20 @@
 package org.example;
 
+import java.io.IOException;
 import java.util.Scanner;
 
 // Главный Метод
 public class StudentApp {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : StudentServer.DEFAULT_PORT;
+            try (StudentServer server = new StudentServer(port)) {
+                System.out.println("Server is listening on port " + server.getPort());
+                server.serve();
+            }
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         Student student = null;
 
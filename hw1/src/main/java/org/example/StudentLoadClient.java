@@ -0,0 +1,133 @@
+package org.example;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Нагрузочный клиент для {@link StudentServer}.
+ * Запускает несколько клиентов в виртуальных потоках, каждый из которых
+ * отправляет команды пачками (конвейером), и выводит пропускную способность
+ * и 99-й перцентиль задержки. Имена студентов содержат уникальный префикс запуска,
+ * поэтому клиент можно запускать против одного сервера повторно.
+ *
+ * <p>Аргументы: {@code [port] [clients] [requestsPerClient] [pipelineDepth]}.</p>
+ */
+public class StudentLoadClient {
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : StudentServer.DEFAULT_PORT;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int depth = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+
+        long start = System.nanoTime();
+        long[] latencies = run(port, clients, requests, depth);
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1e9;
+        long p50 = latencies[(int) (latencies.length * 0.50)];
+        long p99 = latencies[Math.min(latencies.length - 1, (int) (latencies.length * 0.99))];
+        System.out.printf("Requests: %d, clients: %d, pipeline depth: %d%n", latencies.length, clients, depth);
+        System.out.printf("Throughput: %.0f req/s%n", latencies.length / seconds);
+        System.out.printf("Latency p50: %d us, p99: %d us%n", p50 / 1_000, p99 / 1_000);
+    }
+
+    /**
+     * Выполняет один нагрузочный прогон.
+     * @param port порт сервера
+     * @param clients количество параллельных клиентов
+     * @param requests количество запросов от каждого клиента
+     * @param depth глубина конвейера
+     * @return отсортированные задержки всех запросов в наносекундах
+     * @throws IllegalArgumentException если параметры некорректны
+     */
+    static long[] run(int port, int clients, int requests, int depth) throws Exception {
+        if (clients <= 0 || requests <= 0 || depth <= 0)
+            throw new IllegalArgumentException(
+                    "Количество клиентов, запросов и глубина конвейера должны быть положительными");
+        long total = (long) clients * requests;
+        if (total > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Слишком много запросов: " + total);
+
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                String name = "load-" + runId + "-" + i;
+                results.add(executor.submit(() -> runClient(port, name, requests, depth)));
+            }
+        }
+
+        long[] latencies = new long[(int) total];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            offset += clientLatencies.length;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * Создает студента и отправляет ему чередующиеся команды ADD, GET и REMOVE.
+     * @return задержки всех запросов, кроме создания, в наносекундах
+     */
+    private static long[] runClient(int port, String name, int requests, int depth) throws IOException {
+        long[] latencies = new long[requests];
+        long[] sentAt = new long[depth];
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            out.write("CREATE " + name);
+            out.newLine();
+            out.flush();
+            expectOk(in.readLine());
+
+            for (int done = 0; done < requests; ) {
+                int batch = Math.min(depth, requests - done);
+                for (int i = 0; i < batch; i++) {
+                    out.write(command(name, done + i));
+                    out.newLine();
+                    sentAt[i] = System.nanoTime();
+                }
+                out.flush();
+                for (int i = 0; i < batch; i++) {
+                    expectOk(in.readLine());
+                    latencies[done + i] = System.nanoTime() - sentAt[i];
+                }
+                done += batch;
+            }
+
+            out.write("QUIT");
+            out.newLine();
+            out.flush();
+            in.readLine();
+        }
+        return latencies;
+    }
+
+    private static String command(String name, int index) {
+        return switch (index % 3) {
+            case 0 -> "ADD " + name + " " + (index % 5 + 1);
+            case 1 -> "GET " + name;
+            default -> "REMOVE " + name + " " + ((index - 2) % 5 + 1);
+        };
+    }
+
+    private static void expectOk(String response) {
+        if (response == null || !response.startsWith("OK"))
+            throw new IllegalStateException("Unexpected response: " + response);
+    }
+}
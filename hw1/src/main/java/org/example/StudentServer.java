@@ -0,0 +1,206 @@
+package org.example;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Класс {@code StudentServer} — многопользовательский сервер для работы со студентами.
+ * Каждое соединение обслуживается в отдельном виртуальном потоке, все клиенты
+ * работают с общим реестром студентов, а доступ к каждому студенту
+ * защищён собственной блокировкой.
+ *
+ * <p>Протокол строчный: одна команда — одна строка, один ответ — одна строка.</p>
+ * <pre>
+ * CREATE &lt;name&gt;          -&gt; OK
+ * ADD &lt;name&gt; &lt;grade&gt;     -&gt; OK
+ * REMOVE &lt;name&gt; &lt;grade&gt;  -&gt; OK
+ * RESTORE &lt;name&gt;         -&gt; OK
+ * GET &lt;name&gt;             -&gt; OK &lt;name&gt;: [grades]
+ * QUIT                   -&gt; BYE
+ * </pre>
+ * Ошибки возвращаются строкой {@code ERR <сообщение>}. Клиент может отправлять
+ * команды конвейером, не дожидаясь ответов: сервер накапливает ответы и
+ * сбрасывает их в сокет, только когда во входном буфере не осталось команд.
+ */
+public class StudentServer implements AutoCloseable {
+    /** Порт сервера по умолчанию. */
+    public static final int DEFAULT_PORT = 5050;
+
+    private final ServerSocket serverSocket;
+    private final Predicate<String> validator;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentMap<String, Entry> students = new ConcurrentHashMap<>();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Студент из реестра вместе с его блокировкой.
+     * Используется {@link ReentrantLock}, а не {@code synchronized},
+     * чтобы ожидание блокировки не закрепляло виртуальный поток за носителем.
+     */
+    private static class Entry {
+        private final Student<String> student;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        public Entry(Student<String> student) { this.student = student; }
+
+        private <R> R locked(Function<Student<String>, R> action) {
+            lock.lock();
+            try {
+                return action.apply(student);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Создает сервер, слушающий локальный адрес.
+     * @param port номер порта (0 — выбрать свободный)
+     * @throws IOException если порт не удалось открыть
+     */
+    public StudentServer(int port) throws IOException {
+        this(port, x -> true);
+    }
+
+    /**
+     * Создает сервер, слушающий локальный адрес, с проверкой оценок.
+     * @param port номер порта (0 — выбрать свободный)
+     * @param validator функция, проверяющая корректность оценок новых студентов
+     * @throws IOException если порт не удалось открыть
+     */
+    public StudentServer(int port, Predicate<String> validator) throws IOException {
+        this.validator = validator;
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Возвращает порт, на котором слушает сервер.
+     * @return номер порта
+     */
+    public int getPort() { return serverSocket.getLocalPort(); }
+
+    /**
+     * Принимает соединения, пока сервер не будет закрыт.
+     * Каждое соединение обрабатывается в новом виртуальном потоке.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                if (serverSocket.isClosed()) {
+                    closeQuietly(client);  // close() уже обошёл список клиентов
+                    return;
+                }
+                try {
+                    executor.submit(() -> serveClient(client));
+                } catch (RejectedExecutionException e) {
+                    closeQuietly(client);  // сервер закрывается
+                    return;
+                }
+            } catch (SocketException e) {
+                return;  // сервер закрыт
+            } catch (IOException e) {
+                System.err.println("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Закрывает сокет сервера и все клиентские соединения,
+     * затем дожидается завершения обработчиков.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        clients.forEach(StudentServer::closeQuietly);
+        executor.close();
+    }
+
+    // ------------------ Обработка соединений ------------------
+
+    private void serveClient(Socket client) {
+        try (client;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            client.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String response = handle(line);
+                out.write(response);
+                out.newLine();
+                if (response.equals("BYE"))
+                    break;
+                if (!in.ready())
+                    out.flush();
+            }
+            out.flush();
+        } catch (IOException e) {
+            // клиент отключился — просто завершаем обработку
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // соединение уже закрыто
+        }
+    }
+
+    /**
+     * Выполняет одну команду протокола.
+     * @param line строка команды
+     * @return строка ответа
+     */
+    String handle(String line) {
+        String[] parts = line.strip().split("\\s+", 3);
+        String command = parts[0].toUpperCase();
+        try {
+            return switch (command) {
+                case "CREATE" -> {
+                    String name = argument(parts, 1);
+                    Entry created = new Entry(new Student<>(name, validator));
+                    yield students.putIfAbsent(name, created) == null
+                            ? "OK" : "ERR Student " + name + " already exists";
+                }
+                case "ADD" -> entry(parts).locked(s -> { s.AddGrade(argument(parts, 2)); return "OK"; });
+                case "REMOVE" -> entry(parts).locked(s -> { s.RemoveGrade(argument(parts, 2)); return "OK"; });
+                case "RESTORE" -> entry(parts).locked(s -> { s.Restore(); return "OK"; });
+                case "GET" -> "OK " + entry(parts).locked(Student::toString);
+                case "QUIT" -> "BYE";
+                default -> "ERR Unknown command: " + parts[0];
+            };
+        } catch (RuntimeException e) {
+            // любая ошибка команды возвращается клиенту, а соединение остаётся открытым
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private Entry entry(String[] parts) {
+        String name = argument(parts, 1);
+        Entry entry = students.get(name);
+        if (entry == null)
+            throw new IllegalArgumentException("Student " + name + " not found");
+        return entry;
+    }
+
+    private static String argument(String[] parts, int index) {
+        if (parts.length <= index)
+            throw new IllegalArgumentException("Missing argument for " + parts[0]);
+        return parts[index];
+    }
+}
@@ -0,0 +1,139 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class CohortAnalyticsTest {
+    @Test
+    public void testSmallCohortReport() {
+        List<Student<Integer>> cohort = List.of(
+                new Student<>("Alice", List.of(5, 5, 4)),
+                new Student<>("Bob", List.of(3, 4)),
+                new Student<>("Carol", List.of(2)),
+                new Student<>("Dave"));
+
+        CohortAnalytics.Report report = new CohortAnalytics(2, 1.0).analyze(cohort);
+
+        assertEquals(4, report.getStudentCount());
+        assertEquals(6, report.getGradeCount());
+        assertEquals(23.0 / 6, report.getAverage(), 1e-9);
+        assertEquals(2.0, report.getMin());
+        assertEquals(5.0, report.getMax());
+        assertEquals(Map.of(2.0, 1L, 3.0, 1L, 4.0, 2L, 5.0, 2L), report.getHistogram());
+        assertEquals(List.of("Alice", "Bob"), report.getTop().stream().map(CohortAnalytics.Ranked::getName).toList());
+    }
+
+    @Test
+    public void testLargeCohortMatchesSequentialComputation() {
+        List<Student<Integer>> cohort = new ArrayList<>();
+        List<Double> means = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Student<Integer> student = new Student<>("s" + i, List.of(), x -> true, Student.Storage.PERSISTENT);
+            for (int j = 0; j < 10; j++)
+                student.AddGrade((i * 31 + j * 7) % 100 + 1);
+            cohort.add(student);
+            means.add(student.getGrades().stream().mapToInt(Integer::intValue).average().orElseThrow());
+        }
+        means.sort(null);
+
+        CohortAnalytics.Report report = new CohortAnalytics(5, 10.0).analyze(cohort);
+
+        assertEquals(100_000, report.getGradeCount());
+        assertEquals(100_000, report.getHistogram().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(means.get(means.size() - 1), report.getTop().get(0).getMean(), 1e-9);
+        assertEquals(5, report.getTop().size());
+
+        double median = means.get(means.size() / 2);
+        assertEquals(median, report.meanPercentile(0.5), median * 0.02);
+        assertEquals(0.5, report.percentileRank(median), 0.05);
+        assertEquals(50.0, report.gradePercentile(0.5), 50.0 * 0.02);
+    }
+
+    @Test
+    public void testEmptyCohort() {
+        CohortAnalytics.Report report = new CohortAnalytics().analyze(List.of());
+        assertEquals(0, report.getStudentCount());
+        assertTrue(Double.isNaN(report.getAverage()));
+        assertTrue(Double.isNaN(report.gradePercentile(0.99)));
+        assertTrue(report.getTop().isEmpty());
+        assertTrue(report.getHistogram().isEmpty());
+    }
+
+    @Test
+    public void testSketchMergeAndAccuracy() {
+        QuantileSketch first = new QuantileSketch(0.01);
+        QuantileSketch second = new QuantileSketch(0.01);
+        for (int i = 1; i <= 1000; i++)
+            (i % 2 == 0 ? first : second).add(i);
+        first.merge(second);
+
+        assertEquals(1000, first.count());
+        assertEquals(990.0, first.quantile(0.99), 990.0 * 0.01);
+        assertEquals(1.0, first.quantile(0));
+        assertEquals(1000.0, first.quantile(1));
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new QuantileSketch(0.05)));
+    }
+
+    @Test
+    public void testInvalidParametersThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new CohortAnalytics(-1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new CohortAnalytics(5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CohortAnalytics(5, 1.0, 0, ForkJoinPool.commonPool()));
+        assertThrows(NullPointerException.class, () -> new CohortAnalytics(5, 1.0, 0.01, null));
+    }
+
+    @Test
+    public void testPercentileRankIgnoresStudentsWithoutGrades() {
+        List<Student<Integer>> cohort = List.of(
+                new Student<>("Alice", List.of(5)),
+                new Student<>("Bob", List.of(3)),
+                new Student<>("Carol"));
+
+        CohortAnalytics.Report report = new CohortAnalytics().analyze(cohort);
+
+        assertEquals(3, report.getStudentCount());
+        assertEquals(0.5, report.percentileRank(4.0));
+        assertEquals(1.0, report.percentileRank(6.0));
+    }
+
+    @Test
+    public void testSketchGrowsInBothDirections() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (double value = 1; value <= 1e6; value *= 10) {
+            sketch.add(value);
+            sketch.add(1 / value);
+            sketch.add(-value);
+        }
+        sketch.add(0);
+
+        assertEquals(22, sketch.count());
+        assertEquals(-1e6, sketch.quantile(0), 1e6 * 0.01);
+        assertEquals(1e6, sketch.quantile(1), 1e6 * 0.01);
+        assertEquals(14.0 / 22, sketch.rank(0.5), 1e-9);
+    }
+
+    @Test
+    public void testExtremeIntegerGrades() {
+        CohortAnalytics.Report report = new CohortAnalytics().analyze(
+                List.of(new Student<Integer>("A", List.of(Integer.MAX_VALUE, Integer.MAX_VALUE - 1))));
+        assertEquals(Map.of((double) Integer.MAX_VALUE, 1L, (double) (Integer.MAX_VALUE - 1), 1L),
+                report.getHistogram());
+
+        report = new CohortAnalytics().analyze(List.of(new Student<Integer>("B", List.of(Integer.MIN_VALUE))));
+        assertEquals(Map.of((double) Integer.MIN_VALUE, 1L), report.getHistogram());
+    }
+
+    @Test
+    public void testTooWideHistogramThrows() {
+        List<Student<Double>> cohort = List.of(new Student<>("Alice", List.of(0.0, 1e9)));
+        assertThrows(IllegalArgumentException.class, () -> new CohortAnalytics(5, 1.0).analyze(cohort));
+    }
+}
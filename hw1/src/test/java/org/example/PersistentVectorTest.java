@@ -0,0 +1,68 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PersistentVectorTest {
+    @Test
+    public void testAppendAndGetAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        assertEquals(expected, vector);
+    }
+
+    @Test
+    public void testOldVersionsStayUnchanged() {
+        PersistentVector<Integer> first = PersistentVector.of(List.of(1, 2, 3));
+        PersistentVector<Integer> second = first.append(4);
+        PersistentVector<Integer> third = second.without(0);
+
+        assertEquals(List.of(1, 2, 3), first);
+        assertEquals(List.of(1, 2, 3, 4), second);
+        assertEquals(List.of(2, 3, 4), third);
+    }
+
+    @Test
+    public void testWithoutAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        for (int index : new int[]{1_099, 1_050, 1_023, 512, 31, 0}) {
+            vector = vector.without(index);
+            expected.remove(index);
+            assertEquals(expected, vector);
+        }
+    }
+
+    @Test
+    public void testPopAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2_000; i++)
+            vector = vector.append(i);
+        for (int i = 1_999; i >= 0; i--) {
+            assertEquals(i, vector.get(vector.size() - 1));
+            vector = vector.pop();
+        }
+        assertTrue(vector.isEmpty());
+        assertThrows(IllegalStateException.class, vector::pop);
+    }
+
+    @Test
+    public void testIsImmutable() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(2));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+    }
+}
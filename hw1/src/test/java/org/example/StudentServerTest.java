@@ -0,0 +1,147 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+public class StudentServerTest {
+    @Test
+    public void testHandleCommands() throws IOException {
+        try (StudentServer server = new StudentServer(0)) {
+            assertEquals("OK", server.handle("CREATE Alice"));
+            assertTrue(server.handle("CREATE Alice").startsWith("ERR"));
+            assertEquals("OK", server.handle("ADD Alice 5"));
+            assertEquals("OK", server.handle("ADD Alice 4"));
+            assertEquals("OK", server.handle("REMOVE Alice 5"));
+            assertEquals("OK Alice: [4]", server.handle("GET Alice"));
+            assertEquals("OK", server.handle("RESTORE Alice"));
+            assertEquals("OK Alice: [4, 5]", server.handle("GET Alice"));
+            assertEquals("BYE", server.handle("QUIT"));
+        }
+    }
+
+    @Test
+    public void testHandleErrors() throws IOException {
+        try (StudentServer server = new StudentServer(0)) {
+            assertTrue(server.handle("GET Bob").startsWith("ERR"));
+            assertTrue(server.handle("ADD").startsWith("ERR"));
+            assertTrue(server.handle("JUMP").startsWith("ERR"));
+        }
+    }
+
+    @Test
+    public void testFailingValidatorReturnsError() throws IOException {
+        Predicate<String> failing = grade -> {
+            throw new IllegalStateException("validator is broken");
+        };
+        try (StudentServer server = new StudentServer(0, failing)) {
+            assertEquals("OK", server.handle("CREATE Alice"));
+            assertEquals("ERR validator is broken", server.handle("ADD Alice 5"));
+            assertEquals("OK Alice: []", server.handle("GET Alice"));
+        }
+    }
+
+    @Test
+    public void testLoadClientCanRunTwice() throws Exception {
+        try (StudentServer server = new StudentServer(0)) {
+            Thread acceptor = Thread.ofVirtual().start(server::serve);
+            assertEquals(4 * 30, StudentLoadClient.run(server.getPort(), 4, 30, 8).length);
+            assertEquals(4 * 30, StudentLoadClient.run(server.getPort(), 4, 30, 8).length);
+            assertThrows(IllegalArgumentException.class, () -> StudentLoadClient.run(server.getPort(), 0, 30, 8));
+            server.close();
+            acceptor.join();
+        }
+    }
+
+    @Test
+    public void testPipelinedRequestsOverSocket() throws Exception {
+        try (StudentServer server = new StudentServer(0)) {
+            Thread acceptor = Thread.ofVirtual().start(server::serve);
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                 BufferedReader in = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(
+                         new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                out.print("CREATE Carol\nADD Carol 3\nADD Carol 5\nGET Carol\nQUIT\n");
+                out.flush();
+
+                assertEquals("OK", in.readLine());
+                assertEquals("OK", in.readLine());
+                assertEquals("OK", in.readLine());
+                assertEquals("OK Carol: [3, 5]", in.readLine());
+                assertEquals("BYE", in.readLine());
+            }
+            server.close();
+            acceptor.join();
+        }
+    }
+
+    @Test
+    public void testConcurrentClientsShareStudent() throws Exception {
+        int clients = 32;
+        int grades = 5_000;
+        try (StudentServer server = new StudentServer(0)) {
+            Thread acceptor = Thread.ofVirtual().start(server::serve);
+            assertEquals("OK", server.handle("CREATE Shared"));
+
+            List<Future<?>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < clients; c++) {
+                    results.add(executor.submit(() -> {
+                        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                             BufferedReader in = new BufferedReader(
+                                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                             PrintWriter out = new PrintWriter(
+                                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                            for (int i = 0; i < grades; i++)
+                                out.print("ADD Shared " + (i % 5 + 1) + "\n");
+                            out.flush();
+                            for (int i = 0; i < grades; i++)
+                                assertEquals("OK", in.readLine());
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> result : results)
+                result.get();  // пробрасывает ошибки клиентских потоков
+
+            String response = server.handle("GET Shared");
+            String list = response.substring(response.indexOf('[') + 1, response.length() - 1);
+            assertEquals(clients * grades, list.split(", ").length);
+            server.close();
+            acceptor.join();
+        }
+    }
+
+    @Test
+    public void testCloseWithConnectedClient() throws Exception {
+        StudentServer server = new StudentServer(0);
+        Thread acceptor = Thread.ofVirtual().start(server::serve);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.print("CREATE Idle\n");
+            out.flush();
+            assertEquals("OK", in.readLine());
+
+            assertTimeoutPreemptively(Duration.ofSeconds(2), server::close);
+            assertNull(in.readLine());
+        }
+        acceptor.join();
+    }
+}
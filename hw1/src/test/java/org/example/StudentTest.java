@@ -327,6 +327,88 @@ public class StudentTest {
         assertTrue(output.contains("4"));
     }
 
+    // --- Persistent storage ---
+    @Test
+    public void testPersistentGetGradesDoesNotCopy() {
+        Student<Integer> s = new Student<>("Ann", List.of(5, 4), x -> true, Student.Storage.PERSISTENT);
+        assertSame(s.getGrades(), s.getGrades());
+        assertEquals(List.of(5, 4), s.getGrades());
+        assertThrows(UnsupportedOperationException.class, () -> s.getGrades().add(3));
+    }
+
+    @Test
+    public void testPersistentTimeTravel() {
+        Student<Integer> s = new Student<>("Ann", List.of(), x -> true, Student.Storage.PERSISTENT);
+        s.AddGrade(5);
+        s.AddGrade(4);
+        s.ChangeName("Bella");
+        s.RemoveGrade(5);
+
+        assertEquals(4, s.version());
+        assertEquals("Ann: []", s.at(0).toString());
+        assertEquals("Ann: [5, 4]", s.at(2).toString());
+        assertEquals("Bella: [5, 4]", s.at(3).toString());
+        assertEquals("Bella: [4]", s.toString());
+
+        s.Restore();
+        assertEquals(5, s.version());
+        assertEquals(List.of(4, 5), s.getGrades());
+        assertEquals(List.of(4), s.at(4).getGrades());
+    }
+
+    @Test
+    public void testPersistentSnapshotIsIndependent() {
+        Student<Integer> s = new Student<>("Ann", List.of(5), x -> true, Student.Storage.PERSISTENT);
+        Student<Integer> snapshot = s.at(s.version());
+        s.AddGrade(3);
+        snapshot.AddGrade(4);
+        assertEquals(List.of(5, 3), s.getGrades());
+        assertEquals(List.of(5, 4), snapshot.getGrades());
+    }
+
+    @Test
+    public void testPersistentEqualsCopyStorage() {
+        Student<Integer> persistent = new Student<>("Ann", List.of(5, 4), x -> true, Student.Storage.PERSISTENT);
+        Student<Integer> copy = new Student<>("Ann", List.of(5, 4));
+        assertEquals(copy, persistent);
+        assertEquals(copy.hashCode(), persistent.hashCode());
+    }
+
+    @Test
+    public void testSnapshotStartsOwnVersionsWithoutHistory() {
+        Student<Integer> s = new Student<>("Ann", List.of(), x -> true, Student.Storage.PERSISTENT);
+        s.AddGrade(5);
+        s.AddGrade(4);
+        Student<Integer> snapshot = s.at(1);
+        assertEquals(0, snapshot.version());
+        snapshot.Restore();
+        assertEquals(List.of(5), snapshot.getGrades());
+    }
+
+    @Test
+    public void testNullStorageThrows() {
+        assertThrows(NullPointerException.class, () -> new Student<>("Ann", List.of(), x -> true, null));
+    }
+
+    @Test
+    public void testVersionsRequirePersistentStorage() {
+        Student<Integer> s = new Student<>("Ann");
+        assertThrows(IllegalStateException.class, s::version);
+        assertThrows(IllegalStateException.class, () -> s.at(0));
+    }
+
+    @Test
+    public void testForEachGradeVisitsAllGrades() {
+        Student<Integer> copy = new Student<>("Ann", List.of(5, 4, 3));
+        Student<Integer> persistent = new Student<>("Ann", List.of(5, 4, 3), x -> true, Student.Storage.PERSISTENT);
+        List<Integer> fromCopy = new ArrayList<>();
+        List<Integer> fromPersistent = new ArrayList<>();
+        copy.forEachGrade(fromCopy::add);
+        persistent.forEachGrade(fromPersistent::add);
+        assertEquals(List.of(5, 4, 3), fromCopy);
+        assertEquals(List.of(5, 4, 3), fromPersistent);
+    }
+
 }
 
 